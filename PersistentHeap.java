@@ -0,0 +1,201 @@
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * PersistentHeap
+ *
+ * A persistent (immutable, structurally shared) leftist heap over positive integers,
+ * with a mutable facade offering the insert/findMin/deleteMin/meld part of Heap's API.
+ * every update builds a new Snapshot that shares all untouched nodes with the previous one,
+ * so old versions stay valid and taking a snapshot for a reader is O(1).
+ * Snapshots are deeply immutable and can be handed to other threads without locking.
+ * the facade itself is lock-free: updates compare-and-set the current version and retry
+ * on contention, so concurrent writers never lose each other's updates.
+ *
+ */
+public class PersistentHeap {
+    // the latest fully built version. updates rebuild from the version they read and retry if another writer won,
+    // which is safe because building a Snapshot has no side effects
+    private final AtomicReference<Snapshot> current;
+
+    /**
+     * Constructor to initialize an empty heap.
+     */
+    public PersistentHeap() {
+        this.current = new AtomicReference<>(Snapshot.EMPTY);
+    }
+
+    /**
+     * Insert (key,info) into the heap and return the newly generated HeapItem.
+     * pre: key > 0
+     * complexity: O(log n).
+     */
+    public HeapItem insert(int key, String info) {
+        var item = new HeapItem(key, info);
+        this.current.updateAndGet(version -> version.insert(item));
+        return item;
+    }
+
+    /**
+     * Return the minimal HeapItem, null if empty.
+     */
+    public HeapItem findMin() {
+        return this.current.get().findMin();
+    }
+
+    /**
+     * Delete the minimal item, does nothing if the heap is empty.
+     * complexity: O(log n).
+     */
+    public void deleteMin() {
+        this.current.updateAndGet(Snapshot::deleteMin);
+    }
+
+    /**
+     * Meld the heap with heap2. unlike Heap, heap2 is not modified since the nodes are shared, not moved.
+     * complexity: O(log n).
+     */
+    public void meld(PersistentHeap heap2) {
+        var other = heap2.current.get();
+        this.current.updateAndGet(version -> version.meld(other));
+    }
+
+    /**
+     * Return an immutable view of the heap as it is right now.
+     * complexity: O(1).
+     */
+    public Snapshot snapshot() {
+        return this.current.get();
+    }
+
+    /**
+     * Return the number of elements in the heap
+     */
+    public int size() {
+        return this.current.get().size();
+    }
+
+    /**
+     * Return the number of trees in the heap, which is at most 1 for a leftist heap.
+     */
+    public int numTrees() {
+        return this.current.get().numTrees();
+    }
+
+    /**
+     * An immutable version of a PersistentHeap.
+     * all operations return a new Snapshot and leave this one unchanged.
+     */
+    public static final class Snapshot {
+        public static final Snapshot EMPTY = new Snapshot(null);
+
+        private final Node root;
+
+        private Snapshot(Node root) {
+            this.root = root;
+        }
+
+        /**
+         * Return the minimal HeapItem, null if empty.
+         */
+        public HeapItem findMin() {
+            return this.root == null ? null : this.root.item;
+        }
+
+        /**
+         * Return a snapshot that also contains `item`.
+         */
+        public Snapshot insert(HeapItem item) {
+            return new Snapshot(Node.merge(this.root, new Node(item, null, null)));
+        }
+
+        /**
+         * Return a snapshot without the minimal item, this snapshot if empty.
+         */
+        public Snapshot deleteMin() {
+            if (this.root == null) {
+                return this;
+            }
+            return new Snapshot(Node.merge(this.root.left, this.root.right));
+        }
+
+        /**
+         * Return a snapshot containing the items of both snapshots.
+         */
+        public Snapshot meld(Snapshot other) {
+            return new Snapshot(Node.merge(this.root, other.root));
+        }
+
+        /**
+         * Return the number of elements in the snapshot
+         */
+        public int size() {
+            return this.root == null ? 0 : this.root.size;
+        }
+
+        /**
+         * Return the number of trees in the snapshot, which is at most 1 for a leftist heap.
+         */
+        public int numTrees() {
+            return this.root == null ? 0 : 1;
+        }
+    }
+
+    /**
+     * Immutable node of a leftist heap.
+     * `rank` is the length of the rightmost path, which is kept no longer than the leftmost one,
+     * so that merging only walks down right spines of length O(log n).
+     */
+    private static final class Node {
+        final HeapItem item;
+        final Node left;
+        final Node right;
+        final int rank;
+        final int size;
+
+        Node(HeapItem item, Node left, Node right) {
+            this.item = item;
+            this.left = left;
+            this.right = right;
+            this.rank = right == null ? 1 : right.rank + 1;
+            this.size = 1 + (left == null ? 0 : left.size) + (right == null ? 0 : right.size);
+        }
+
+        /**
+         * merge two leftist heaps, copying only the nodes on the merged right spines.
+         * complexity: O(log n)
+         */
+        static Node merge(Node a, Node b) {
+            if (a == null) {
+                return b;
+            }
+            if (b == null) {
+                return a;
+            }
+            if (b.item.key < a.item.key) {
+                var tmp = a;
+                a = b;
+                b = tmp;
+            }
+            var merged = merge(a.right, b);
+            // keep the shorter right spine on the right
+            if (a.left == null || a.left.rank < merged.rank) {
+                return new Node(a.item, merged, a.left);
+            }
+            return new Node(a.item, a.left, merged);
+        }
+    }
+
+    /**
+     * Class implementing an item in a PersistentHeap.
+     * items are immutable, since the same item may be reachable from many snapshots.
+     */
+    public static final class HeapItem {
+        public final int key;
+        public final String info;
+
+        public HeapItem(int key, String info) {
+            this.key = key;
+            this.info = info;
+        }
+    }
+}
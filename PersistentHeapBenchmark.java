@@ -0,0 +1,168 @@
+import java.util.Random;
+
+/**
+ * Compares snapshot reads on PersistentHeap against copy-on-read on Heap.
+ * usage: java PersistentHeapBenchmark [itemCount] [writerOps] [readEvery]
+ * the writer alternates inserts and deleteMins, and every `readEvery` ops a reader takes a snapshot
+ * (a full copy for Heap) and inspects its 10 smallest keys. the keys seen by the readers are checked to match.
+ */
+public class PersistentHeapBenchmark {
+    private static final int PEEK = 10;
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int ops = args.length > 1 ? Integer.parseInt(args[1]) : 200_000;
+        int readEvery = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+
+        System.out.println("=== PersistentHeap Benchmark ===");
+        System.out.println("items=" + n + ", writerOps=" + ops + ", readEvery=" + readEvery + "\n");
+
+        // warm up both implementations on a small heap first
+        runHeap(fillHeap(n / 100), ops / 100, Math.max(readEvery / 100, 1));
+        runPersistentHeap(fillPersistentHeap(n / 100), ops / 100, Math.max(readEvery / 100, 1));
+
+        // snapshot cost on its own
+        Heap heap = fillHeap(n);
+        PersistentHeap persistent = fillPersistentHeap(n);
+
+        int copies = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < copies; i++) {
+            copyOf(heap);
+        }
+        long copyTime = (System.nanoTime() - start) / copies;
+
+        int snapshots = 1_000_000;
+        long sink = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < snapshots; i++) {
+            sink += persistent.snapshot().size();
+        }
+        long snapshotTime = (System.nanoTime() - start) / snapshots;
+        System.out.printf("snapshot cost: Heap copy %d us, PersistentHeap snapshot %d ns (sink %d)%n",
+                copyTime / 1_000, snapshotTime, sink);
+
+        // writer throughput with periodic readers, continuing from the filled heaps
+        start = System.nanoTime();
+        long heapChecksum = runHeap(heap, ops, readEvery);
+        long heapTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long persistentChecksum = runPersistentHeap(persistent, ops, readEvery);
+        long persistentTime = System.nanoTime() - start;
+
+        System.out.printf("throughput: Heap %.0f ops/s, PersistentHeap %.0f ops/s%n",
+                ops * 1e9 / heapTime, ops * 1e9 / persistentTime);
+        if (heapChecksum != persistentChecksum) {
+            System.out.println("✗ readers saw different keys!");
+            System.exit(1);
+        }
+        System.out.println("\n✓ readers saw the same keys");
+    }
+
+    /**
+     * build a Heap of n random keys, consolidated by one deleteMin.
+     */
+    private static Heap fillHeap(int n) {
+        Random rand = new Random(1);
+        Heap heap = new Heap(true, true);
+        for (int i = 0; i < n; i++) {
+            heap.insert(rand.nextInt(1 << 30) + 1, null);
+        }
+        heap.deleteMin();
+        return heap;
+    }
+
+    /**
+     * build a PersistentHeap holding the same keys as fillHeap(n).
+     */
+    private static PersistentHeap fillPersistentHeap(int n) {
+        Random rand = new Random(1);
+        PersistentHeap heap = new PersistentHeap();
+        for (int i = 0; i < n; i++) {
+            heap.insert(rand.nextInt(1 << 30) + 1, null);
+        }
+        heap.deleteMin();
+        return heap;
+    }
+
+    /**
+     * run `ops` writer operations on `heap`, copying the heap for every reader.
+     */
+    private static long runHeap(Heap heap, int ops, int readEvery) {
+        Random rand = new Random(2);
+        long checksum = 0;
+        for (int op = 1; op <= ops; op++) {
+            if (op % 2 == 0) {
+                heap.deleteMin();
+            } else {
+                heap.insert(rand.nextInt(1 << 30) + 1, null);
+            }
+            if (op % readEvery == 0) {
+                Heap copy = copyOf(heap);
+                for (int i = 0; i < PEEK && copy.size() > 0; i++) {
+                    checksum = checksum * 31 + copy.findMin().key;
+                    copy.deleteMin();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * run `ops` writer operations on `heap`, taking a snapshot for every reader.
+     */
+    private static long runPersistentHeap(PersistentHeap heap, int ops, int readEvery) {
+        Random rand = new Random(2);
+        long checksum = 0;
+        for (int op = 1; op <= ops; op++) {
+            if (op % 2 == 0) {
+                heap.deleteMin();
+            } else {
+                heap.insert(rand.nextInt(1 << 30) + 1, null);
+            }
+            if (op % readEvery == 0) {
+                var snapshot = heap.snapshot();
+                for (int i = 0; i < PEEK && snapshot.size() > 0; i++) {
+                    checksum = checksum * 31 + snapshot.findMin().key;
+                    snapshot = snapshot.deleteMin();
+                }
+            }
+        }
+        return checksum;
+    }
+
+    /**
+     * copy-on-read: build a new Heap with the same trees as `heap`, node by node,
+     * so that the copy's readers only pay for the copy and not for relinking n roots.
+     */
+    private static Heap copyOf(Heap heap) {
+        Heap copy = new Heap(heap.lazyMelds, heap.lazyDecreaseKeys);
+        copyChildren(heap.roots, copy.roots, heap, copy);
+        copy.rootCount = heap.rootCount;
+        copy.itemCount = heap.itemCount;
+        copy.markedCount = heap.markedCount;
+        return copy;
+    }
+
+    /**
+     * append copies of `from`'s children (and their subtrees) to `to`, pointing copy.min at the copy of heap.min.
+     */
+    private static void copyChildren(Heap.HeapNode from, Heap.HeapNode to, Heap heap, Heap copy) {
+        var start = from.child;
+        if (start == null) {
+            return;
+        }
+        var curr = start;
+        do {
+            var node = new Heap.HeapNode(new Heap.HeapItem(curr.item.key, curr.item.info));
+            node.marked = curr.marked;
+            to.append(node);
+            if (curr.item == heap.min) {
+                copy.min = node.item;
+            }
+            copyChildren(curr, node, heap, copy);
+            curr = curr.next;
+        } while (curr != start);
+    }
+}
@@ -0,0 +1,217 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class PersistentHeapTester {
+    public static void main(String[] args) {
+        System.out.println("=== PersistentHeap Test ===\n");
+
+        boolean allPassed = true;
+
+        allPassed &= testEmpty();
+        allPassed &= testSnapshots();
+        allPassed &= testMeld();
+        allPassed &= testConcurrentWriters();
+
+        System.out.println("\n=== Final Result ===");
+        if (allPassed) {
+            System.out.println("✓ ALL TESTS PASSED!");
+        } else {
+            System.out.println("✗ SOME TESTS FAILED!");
+        }
+    }
+
+    private static boolean testEmpty() {
+        System.out.print("Testing: empty heap... ");
+        PersistentHeap heap = new PersistentHeap();
+        var empty = heap.snapshot();
+        heap.deleteMin(); // documented to do nothing on an empty heap
+        if (heap.findMin() != null || heap.size() != 0 || heap.numTrees() != 0
+                || empty.deleteMin() != empty || !checkSnapshot(heap.snapshot(), new ArrayList<>())) {
+            System.out.println("✗");
+            System.out.println("  ERROR: empty heap does not behave as documented");
+            return false;
+        }
+        heap.insert(5, "A");
+        if (heap.findMin().key != 5 || heap.numTrees() != 1 || !checkSnapshot(empty, new ArrayList<>())) {
+            System.out.println("✗");
+            System.out.println("  ERROR: inserting into an empty heap changed its old snapshot");
+            return false;
+        }
+        System.out.println("✓");
+        return true;
+    }
+
+    private static boolean testSnapshots() {
+        System.out.print("Testing: old snapshots survive later inserts, deleteMins and melds... ");
+        Random rand = new Random(42); // Fixed seed for reproducibility
+        PersistentHeap heap = new PersistentHeap();
+        List<Integer> keys = new ArrayList<>();
+        List<PersistentHeap.Snapshot> snapshots = new ArrayList<>();
+        List<List<Integer>> expected = new ArrayList<>();
+
+        for (int op = 1; op <= 6000; op++) {
+            int choice = rand.nextInt(10);
+            if (choice < 6 || keys.isEmpty()) {
+                int key = rand.nextInt(10000) + 1;
+                heap.insert(key, "Item" + op);
+                keys.add(key);
+            } else if (choice < 9) {
+                int min = Collections.min(keys);
+                if (heap.findMin().key != min) {
+                    System.out.println("✗");
+                    System.out.println("  ERROR: Expected min " + min + ", got " + heap.findMin().key);
+                    return false;
+                }
+                keys.remove(Integer.valueOf(min));
+                heap.deleteMin();
+            } else {
+                PersistentHeap other = new PersistentHeap();
+                for (int i = 0; i < 10; i++) {
+                    int key = rand.nextInt(10000) + 1;
+                    other.insert(key, "Melded");
+                    keys.add(key);
+                }
+                heap.meld(other);
+            }
+            if (heap.size() != keys.size()) {
+                System.out.println("✗");
+                System.out.println("  ERROR: Expected size " + keys.size() + ", got " + heap.size());
+                return false;
+            }
+            if (op % 500 == 0) {
+                snapshots.add(heap.snapshot());
+                var sorted = new ArrayList<>(keys);
+                Collections.sort(sorted);
+                expected.add(sorted);
+            }
+        }
+
+        // drain every old snapshot, newest first, and compare to the keys it had when it was taken
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            if (!checkSnapshot(snapshots.get(i), expected.get(i))) {
+                System.out.println("  ERROR: snapshot " + (i + 1) + " changed after it was taken");
+                return false;
+            }
+        }
+        // draining a snapshot must not touch the heap it came from
+        if (heap.size() != keys.size()) {
+            System.out.println("✗");
+            System.out.println("  ERROR: draining snapshots changed the heap");
+            return false;
+        }
+        System.out.println("✓");
+        return true;
+    }
+
+    private static boolean testMeld() {
+        System.out.print("Testing: meld keeps both heaps usable... ");
+        PersistentHeap heap1 = new PersistentHeap();
+        PersistentHeap heap2 = new PersistentHeap();
+        List<Integer> keys1 = new ArrayList<>();
+        List<Integer> keys2 = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            heap1.insert(2 * i, "Even");
+            keys1.add(2 * i);
+            heap2.insert(2 * i - 1, "Odd");
+            keys2.add(2 * i - 1);
+        }
+        var before1 = heap1.snapshot();
+        var before2 = heap2.snapshot();
+        List<Integer> beforeKeys1 = new ArrayList<>(keys1);
+
+        heap1.meld(heap2);
+        keys1.addAll(keys2);
+        if (!checkSnapshot(heap1.snapshot(), sorted(keys1)) || !checkSnapshot(heap2.snapshot(), sorted(keys2))) {
+            System.out.println("  ERROR: meld produced the wrong contents");
+            return false;
+        }
+
+        // heap2 keeps working on its own, and its changes do not leak into heap1
+        heap2.deleteMin();
+        heap2.insert(1000, "Later");
+        keys2.remove(Integer.valueOf(1));
+        keys2.add(1000);
+        heap1.deleteMin();
+        keys1.remove(Integer.valueOf(1));
+        if (!checkSnapshot(heap1.snapshot(), sorted(keys1)) || !checkSnapshot(heap2.snapshot(), sorted(keys2))
+                || !checkSnapshot(before1, sorted(beforeKeys1)) || before2.size() != 100) {
+            System.out.println("  ERROR: heaps are not independent after meld");
+            return false;
+        }
+        System.out.println("✓");
+        return true;
+    }
+
+    private static boolean testConcurrentWriters() {
+        System.out.print("Testing: concurrent writers do not lose updates... ");
+        PersistentHeap heap = new PersistentHeap();
+        int threads = 4;
+        int perThread = 20000;
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            writers.add(new Thread(() -> {
+                for (int i = 1; i <= perThread; i++) {
+                    heap.insert(offset + i, null);
+                }
+            }));
+        }
+        try {
+            for (var writer : writers) {
+                writer.start();
+            }
+            for (var writer : writers) {
+                writer.join();
+            }
+        } catch (InterruptedException e) {
+            System.out.println("✗");
+            System.out.println("  ERROR: interrupted");
+            return false;
+        }
+        List<Integer> expected = new ArrayList<>();
+        for (int key = 1; key <= threads * perThread; key++) {
+            expected.add(key);
+        }
+        if (!checkSnapshot(heap.snapshot(), expected)) {
+            System.out.println("  ERROR: Expected " + expected.size() + " items, got " + heap.size());
+            return false;
+        }
+        System.out.println("✓");
+        return true;
+    }
+
+    /**
+     * drain `snapshot` and verify that it yields exactly `expected` (sorted), checking size and numTrees on the way.
+     */
+    private static boolean checkSnapshot(PersistentHeap.Snapshot snapshot, List<Integer> expected) {
+        for (int i = 0; i < expected.size(); i++) {
+            if (snapshot.size() != expected.size() - i || snapshot.numTrees() != 1) {
+                System.out.println("✗");
+                System.out.println("  ERROR: Expected size " + (expected.size() - i) + " and 1 tree, got "
+                        + snapshot.size() + " and " + snapshot.numTrees());
+                return false;
+            }
+            var min = snapshot.findMin();
+            if (min == null || min.key != expected.get(i)) {
+                System.out.println("✗");
+                System.out.println("  ERROR: Expected min " + expected.get(i) + ", got " + (min == null ? "null" : min.key));
+                return false;
+            }
+            snapshot = snapshot.deleteMin();
+        }
+        if (snapshot.size() != 0 || snapshot.numTrees() != 0 || snapshot.findMin() != null) {
+            System.out.println("✗");
+            System.out.println("  ERROR: snapshot not empty after extracting all elements");
+            return false;
+        }
+        return true;
+    }
+
+    private static List<Integer> sorted(List<Integer> keys) {
+        var sorted = new ArrayList<>(keys);
+        Collections.sort(sorted);
+        return sorted;
+    }
+}
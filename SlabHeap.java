@@ -0,0 +1,556 @@
+import java.util.Arrays;
+
+/**
+ * SlabHeap
+ *
+ * An experimental Fibonacci heap over positive integers with the same API as Heap,
+ * but with a flat memory layout: every node is an `int` index into a set of parallel arrays (the "slab"),
+ * each node keeps its children in a small growable block of one shared `int` pool,
+ * and the roots live in one compact array.
+ * successive linking and deleteMin therefore scan contiguous arrays instead of chasing next/prev pointers.
+ *
+ * differences from Heap:
+ * - when lazyDecreaseKeys==true, a cascading cut does all of its cuts first and then a single successive linking.
+ * - when lazyDecreaseKeys==false, heapifyUp also swaps with a parent that is a root.
+ * - meld copies the smaller slab into the larger one, so it costs O(min(n1, n2)) rather than O(1).
+ * - children promoted to roots by deleteMin are unmarked, so roots are never marked
+ *   and numMarkedNodes is always the number of marked nodes in the heap.
+ * - the roots are linked in a different order than in Heap, so totalLinks, numTrees, totalCuts
+ *   and numMarkedNodes can differ from Heap's for the same sequence of operations.
+ *
+ */
+public class SlabHeap {
+    public static final int NIL = -1;
+
+    public final boolean lazyMelds;
+    public final boolean lazyDecreaseKeys;
+    public HeapItem min;
+
+    // the slab, one entry per node index. a node's rank is also its number of children
+    public int[] key;
+    public HeapItem[] item;
+    public int[] parent;
+    public int[] rank;
+    public boolean[] marked;
+    // the children of a node are childPool[childOffset[node] .. childOffset[node] + rank[node]),
+    // inside a block of childCapacity[node] entries (0 if the node never had a block)
+    public int[] childOffset;
+    public int[] childCapacity;
+    // position of the node inside its parent's children block, or inside `roots` if it is a root
+    public int[] slot;
+
+    public int[] roots;
+    public int rootCount = 0;
+
+    // shared storage for all children blocks. block sizes are powers of two,
+    // and released blocks are kept in per-size free lists chained through their first entry
+    public int[] childPool;
+    public int poolUsed = 0;
+    private int[] poolFree = new int[32];
+
+    // number of slab entries ever handed out, and the head of the free list (chained through `parent`)
+    public int used = 0;
+    public int freeHead = NIL;
+
+    public int itemCount = 0;
+    public int markedCount = 0;
+    public int linkCount = 0;
+    public int cutCount = 0;
+    public int heapifyCount = 0;
+
+    // reused by every successive linking, always all NIL between calls
+    private final int[] bins = new int[64];
+
+    /**
+     * Constructor to initialize an empty heap.
+     */
+    public SlabHeap(boolean lazyMelds, boolean lazyDecreaseKeys) {
+        this(lazyMelds, lazyDecreaseKeys, 16);
+    }
+
+    /**
+     * Constructor to initialize an empty heap with room for `initialCapacity` nodes before the slab grows.
+     */
+    public SlabHeap(boolean lazyMelds, boolean lazyDecreaseKeys, int initialCapacity) {
+        this.lazyMelds = lazyMelds;
+        this.lazyDecreaseKeys = lazyDecreaseKeys;
+        this.min = null;
+
+        int capacity = Math.max(initialCapacity, 1);
+        this.key = new int[capacity];
+        this.item = new HeapItem[capacity];
+        this.parent = new int[capacity];
+        this.rank = new int[capacity];
+        this.marked = new boolean[capacity];
+        this.childOffset = new int[capacity];
+        this.childCapacity = new int[capacity];
+        this.slot = new int[capacity];
+        this.roots = new int[16];
+        this.childPool = new int[2 * capacity];
+        Arrays.fill(this.poolFree, NIL);
+        Arrays.fill(this.bins, NIL);
+    }
+
+    /**
+     * Insert (key,info) into the heap and return the newly generated HeapItem.
+     * pre: key > 0
+     * complexity: O(1) amortized if lazyMelds==true, otherwise O(log n).
+     */
+    public HeapItem insert(int key, String info) {
+        var item = new HeapItem(key, info);
+        int node = this.allocate(item);
+        this.itemCount++;
+
+        if (this.min == null || this.min.key > item.key) {
+            this.min = item;
+        }
+
+        this.addRoot(node);
+        if (!this.lazyMelds) {
+            this.successiveLink();
+        }
+        return item;
+    }
+
+    /**
+     * Return the minimal HeapItem, null if empty.
+     */
+    public HeapItem findMin() {
+        return this.min;
+    }
+
+    /**
+     * Delete the minimal item.
+     * complexity: O(log n) because of the successive linking.
+     */
+    public void deleteMin() {
+        int minNode = this.min.node;
+        this.itemCount--;
+        this.removeRoot(minNode);
+        // add all children of the minimum to the root list, roots are never marked
+        int base = this.childOffset[minNode];
+        for (int i = 0; i < this.rank[minNode]; i++) {
+            int child = this.childPool[base + i];
+            if (this.marked[child]) {
+                this.marked[child] = false;
+                this.markedCount--;
+            }
+            this.addRoot(child);
+        }
+        this.rank[minNode] = 0;
+        this.release(minNode);
+        this.successiveLink(); // NOTE: this will update this.min
+    }
+
+    /**
+     * Decrease the key of x by diff and fix the heap.
+     * pre: 0<=diff<=x.key
+     * complexity:
+     * depending on `lazyDecreaseKeys`, either heapifyUp or cascading cuts, as in Heap.
+     * all cuts are done first and a single successive linking follows when lazyMelds==false.
+     */
+    public void decreaseKey(HeapItem x, int diff) {
+        x.key -= diff;
+        int curr = x.node;
+        this.key[curr] = x.key;
+        if (x.key < this.min.key) {
+            this.min = x;
+        }
+        if (this.isRoot(curr) || this.key[curr] >= this.key[this.parent[curr]]) {
+            // heap invariant was not broken, no fix needed
+            return;
+        }
+        if (this.lazyDecreaseKeys) {
+            while (true) {
+                int p = this.parent[curr];
+                // remove current from its tree and add it to the root list
+                this.removeChild(curr);
+                this.cutCount++;
+                if (this.marked[curr]) {
+                    this.markedCount--;
+                    this.marked[curr] = false;
+                }
+                this.addRoot(curr);
+                if (this.isRoot(p)) {
+                    break;
+                }
+                if (!this.marked[p]) {
+                    // mark parent and stop cascading cut
+                    this.markedCount++;
+                    this.marked[p] = true;
+                    break;
+                }
+                // cascade the cut
+                curr = p;
+            }
+            if (!this.lazyMelds) {
+                this.successiveLink();
+            }
+        } else {
+            while (!this.isRoot(curr) && this.key[curr] < this.key[this.parent[curr]]) {
+                int p = this.parent[curr];
+                var high = this.item[p];
+                var low = this.item[curr];
+                this.setItem(p, low);
+                this.setItem(curr, high);
+                this.heapifyCount++;
+                curr = p;
+            }
+        }
+    }
+
+    /**
+     * Delete the x from the heap.
+     * delete by decreasing x to be the new minimum then deleteMin()ing.
+     */
+    public void delete(HeapItem x) {
+        int D = x.key - this.min.key;
+        this.decreaseKey(x, D + 1); // x's key is now guaranteed to be the minimum
+        this.deleteMin();
+    }
+
+    /**
+     * perform successive linking on the heap as it currently is.
+     * to be called after deleteMin or when melding with lazyMelds=false.
+     * complexity: linear in the number of roots, so O(log n).
+     */
+    private void successiveLink() {
+        this.min = null;
+        if (this.rootCount == 0) {
+            // no nodes in the heap so there is nothing to do
+            return;
+        }
+
+        // successively link all roots. linking only touches children blocks, so `roots` can be read while we go
+        int maxRank = 0;
+        for (int i = 0; i < this.rootCount; i++) {
+            int curr = this.roots[i];
+            // repeatedly link until no other root of same rank exists
+            while (this.bins[this.rank[curr]] != NIL) {
+                int other = this.bins[this.rank[curr]];
+                this.bins[this.rank[curr]] = NIL;
+                this.linkCount++;
+                if (this.key[other] < this.key[curr]) {
+                    this.addChild(other, curr);
+                    curr = other;
+                } else {
+                    this.addChild(curr, other);
+                }
+            }
+            this.bins[this.rank[curr]] = curr;
+            maxRank = Math.max(maxRank, this.rank[curr]);
+        }
+
+        // rebuild the root list from the bins, clearing them for the next call
+        this.rootCount = 0;
+        int minNode = NIL;
+        for (int r = 0; r <= maxRank; r++) {
+            int root = this.bins[r];
+            if (root != NIL) {
+                this.bins[r] = NIL;
+                this.addRoot(root);
+                if (minNode == NIL || this.key[minNode] > this.key[root]) {
+                    minNode = root;
+                }
+            }
+        }
+        this.min = this.item[minNode];
+    }
+
+    /**
+     * Meld the heap with heap2. heap2 is left empty.
+     * the nodes of the smaller slab are copied into the larger one, so this costs O(min(n1, n2))
+     * on top of the successive linking, unlike Heap which splices the root lists in O(1).
+     * the copied nodes get fresh children blocks in this heap's pool.
+     * <p>
+     * pre: heap2.lazyMelds = this.lazyMelds AND heap2.lazyDecreaseKeys = this.lazyDecreaseKeys
+     */
+    public void meld(SlabHeap heap2) {
+        // add histories
+        this.itemCount += heap2.itemCount;
+        this.markedCount += heap2.markedCount;
+        this.cutCount += heap2.cutCount;
+        this.linkCount += heap2.linkCount;
+        this.heapifyCount += heap2.heapifyCount;
+
+        if (this.min == null || (
+                heap2.min != null && this.min.key > heap2.min.key)) {
+            this.min = heap2.min;
+        }
+
+        if (this.itemCount - heap2.itemCount < heap2.itemCount) {
+            // keep the larger slab and copy the smaller one into it
+            this.swapSlabs(heap2);
+        }
+
+        // first allocate every live node of heap2, then rebuild its trees with the new indices
+        int[] remap = new int[heap2.used];
+        for (int j = 0; j < heap2.used; j++) {
+            if (heap2.item[j] != null) {
+                remap[j] = this.allocate(heap2.item[j]);
+            }
+        }
+        for (int j = 0; j < heap2.used; j++) {
+            if (heap2.item[j] != null) {
+                int node = remap[j];
+                this.marked[node] = heap2.marked[j];
+                int base = heap2.childOffset[j];
+                for (int i = 0; i < heap2.rank[j]; i++) {
+                    this.addChild(node, remap[heap2.childPool[base + i]]);
+                }
+            }
+        }
+        for (int i = 0; i < heap2.rootCount; i++) {
+            this.addRoot(remap[heap2.roots[i]]);
+        }
+        heap2.clear();
+
+        if (!this.lazyMelds) {
+            this.successiveLink();
+        }
+    }
+
+
+    /**
+     * Return the number of elements in the heap
+     */
+    public int size() {
+        return this.itemCount;
+    }
+
+
+    /**
+     * Return the number of trees in the heap.
+     */
+    public int numTrees() {
+        return this.rootCount;
+    }
+
+
+    /**
+     * Return the number of marked nodes in the heap.
+     */
+    public int numMarkedNodes() {
+        return this.markedCount;
+    }
+
+
+    /**
+     * Return the total number of links.
+     */
+    public int totalLinks() {
+        return this.linkCount;
+    }
+
+
+    /**
+     * Return the total number of cuts.
+     */
+    public int totalCuts() {
+        return this.cutCount;
+    }
+
+
+    /**
+     * Return the total heapify costs.
+     */
+    public int totalHeapifyCosts() {
+        return this.heapifyCount;
+    }
+
+    /**
+     * whether `node` is one of the roots in the heap
+     */
+    private boolean isRoot(int node) {
+        return this.parent[node] == NIL;
+    }
+
+    /**
+     * store `item` in `node`, keeping the slab key and the item's back pointer in sync
+     */
+    private void setItem(int node, HeapItem item) {
+        this.item[node] = item;
+        this.key[node] = item.key;
+        item.node = node;
+    }
+
+    /**
+     * take a free slab entry (or grow the slab) and store `item` in it as a detached node of rank 0.
+     * the children block of a reused entry is kept to avoid reallocating it.
+     */
+    private int allocate(HeapItem item) {
+        int node;
+        if (this.freeHead != NIL) {
+            node = this.freeHead;
+            this.freeHead = this.parent[node];
+        } else {
+            if (this.used == this.key.length) {
+                this.grow();
+            }
+            node = this.used++;
+        }
+        this.setItem(node, item);
+        this.parent[node] = NIL;
+        this.rank[node] = 0;
+        this.marked[node] = false;
+        return node;
+    }
+
+    /**
+     * return a detached node to the free list
+     */
+    private void release(int node) {
+        this.item[node] = null;
+        this.parent[node] = this.freeHead;
+        this.freeHead = node;
+    }
+
+    private void grow() {
+        int capacity = this.key.length * 2;
+        this.key = Arrays.copyOf(this.key, capacity);
+        this.item = Arrays.copyOf(this.item, capacity);
+        this.parent = Arrays.copyOf(this.parent, capacity);
+        this.rank = Arrays.copyOf(this.rank, capacity);
+        this.marked = Arrays.copyOf(this.marked, capacity);
+        this.childOffset = Arrays.copyOf(this.childOffset, capacity);
+        this.childCapacity = Arrays.copyOf(this.childCapacity, capacity);
+        this.slot = Arrays.copyOf(this.slot, capacity);
+    }
+
+    /**
+     * append `node` to the root list.
+     * NOTE: this overwrites `node`'s parent and slot
+     */
+    private void addRoot(int node) {
+        if (this.rootCount == this.roots.length) {
+            this.roots = Arrays.copyOf(this.roots, this.rootCount * 2);
+        }
+        this.roots[this.rootCount] = node;
+        this.slot[node] = this.rootCount++;
+        this.parent[node] = NIL;
+    }
+
+    /**
+     * remove `node` from the root list by moving the last root into its slot
+     */
+    private void removeRoot(int node) {
+        int last = this.roots[--this.rootCount];
+        this.roots[this.slot[node]] = last;
+        this.slot[last] = this.slot[node];
+    }
+
+    /**
+     * append `child` to `node`'s children block, moving the block to a larger one if it is full.
+     * NOTE: this overwrites `child`'s parent and slot
+     */
+    private void addChild(int node, int child) {
+        int capacity = this.childCapacity[node];
+        if (this.rank[node] == capacity) {
+            int newCapacity = capacity == 0 ? 2 : capacity * 2;
+            int newOffset = this.allocateBlock(newCapacity);
+            if (capacity != 0) {
+                System.arraycopy(this.childPool, this.childOffset[node], this.childPool, newOffset, this.rank[node]);
+                this.releaseBlock(this.childOffset[node], capacity);
+            }
+            this.childOffset[node] = newOffset;
+            this.childCapacity[node] = newCapacity;
+        }
+        this.childPool[this.childOffset[node] + this.rank[node]] = child;
+        this.slot[child] = this.rank[node]++;
+        this.parent[child] = node;
+    }
+
+    /**
+     * cut `child` and its subtree from its parent by moving the parent's last child into its slot.
+     * NOTE: this does not modify or use the `marked` field
+     * NOTE: this clears `child`'s parent.
+     */
+    private void removeChild(int child) {
+        int node = this.parent[child];
+        int base = this.childOffset[node];
+        int last = this.childPool[base + --this.rank[node]];
+        this.childPool[base + this.slot[child]] = last;
+        this.slot[last] = this.slot[child];
+        this.parent[child] = NIL;
+    }
+
+    /**
+     * return the offset of a free block of `capacity` entries in the pool, growing the pool if needed.
+     * pre: capacity is a power of two
+     */
+    private int allocateBlock(int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        int offset = this.poolFree[sizeClass];
+        if (offset != NIL) {
+            this.poolFree[sizeClass] = this.childPool[offset];
+            return offset;
+        }
+        if (this.poolUsed + capacity > this.childPool.length) {
+            this.childPool = Arrays.copyOf(this.childPool, Math.max(this.childPool.length * 2, this.poolUsed + capacity));
+        }
+        offset = this.poolUsed;
+        this.poolUsed += capacity;
+        return offset;
+    }
+
+    /**
+     * put a block of `capacity` entries on its free list
+     */
+    private void releaseBlock(int offset, int capacity) {
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        this.childPool[offset] = this.poolFree[sizeClass];
+        this.poolFree[sizeClass] = offset;
+    }
+
+    /**
+     * exchange the slab, children pool and root list with `other`. item back pointers stay valid because they move with the slab.
+     */
+    private void swapSlabs(SlabHeap other) {
+        int[] key = this.key; this.key = other.key; other.key = key;
+        HeapItem[] item = this.item; this.item = other.item; other.item = item;
+        int[] parent = this.parent; this.parent = other.parent; other.parent = parent;
+        int[] rank = this.rank; this.rank = other.rank; other.rank = rank;
+        boolean[] marked = this.marked; this.marked = other.marked; other.marked = marked;
+        int[] childOffset = this.childOffset; this.childOffset = other.childOffset; other.childOffset = childOffset;
+        int[] childCapacity = this.childCapacity; this.childCapacity = other.childCapacity; other.childCapacity = childCapacity;
+        int[] childPool = this.childPool; this.childPool = other.childPool; other.childPool = childPool;
+        int poolUsed = this.poolUsed; this.poolUsed = other.poolUsed; other.poolUsed = poolUsed;
+        int[] poolFree = this.poolFree; this.poolFree = other.poolFree; other.poolFree = poolFree;
+        int[] slot = this.slot; this.slot = other.slot; other.slot = slot;
+        int[] roots = this.roots; this.roots = other.roots; other.roots = roots;
+        int rootCount = this.rootCount; this.rootCount = other.rootCount; other.rootCount = rootCount;
+        int used = this.used; this.used = other.used; other.used = used;
+        int freeHead = this.freeHead; this.freeHead = other.freeHead; other.freeHead = freeHead;
+    }
+
+    /**
+     * drop every node, keeping the allocated arrays. the counters are left as they are.
+     */
+    private void clear() {
+        Arrays.fill(this.item, 0, this.used, null);
+        Arrays.fill(this.childCapacity, 0, this.used, 0);
+        Arrays.fill(this.poolFree, NIL);
+        this.poolUsed = 0;
+        this.min = null;
+        this.itemCount = 0;
+        this.markedCount = 0;
+        this.rootCount = 0;
+        this.used = 0;
+        this.freeHead = NIL;
+    }
+
+    /**
+     * Class implementing an item in a SlabHeap.
+     * `node` is the item's index in the slab of the heap that currently holds it.
+     */
+    public static class HeapItem {
+        public int node;
+        public int key;
+        public String info;
+
+        public HeapItem(int key, String info) {
+            this.key = key;
+            this.info = info;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.Random;
+
+/**
+ * Compares Heap against SlabHeap on heaps much larger than the last-level cache.
+ * usage: java SlabHeapBenchmark [itemCount] [rounds]
+ * both heaps run the same seeded workload (inserts, decreaseKeys, melds, then draining with deleteMin)
+ * and the popped key sequences are checked to be identical.
+ */
+public class SlabHeapBenchmark {
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 4_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        System.out.println("=== SlabHeap Benchmark ===");
+        System.out.println("items=" + n + ", rounds=" + rounds + ", lazyMelds=true, lazyDecreaseKeys=true\n");
+
+        // warm up both implementations on a cache-resident heap first
+        runHeap(n / 100, 1);
+        runSlabHeap(n / 100, 1);
+
+        for (int round = 1; round <= rounds; round++) {
+            long[] heapResult = runHeap(n, round);
+            long heapChecksum = heapResult[0];
+            long heapTime = heapResult[1];
+
+            long[] slabResult = runSlabHeap(n, round);
+            long slabChecksum = slabResult[0];
+            long slabTime = slabResult[1];
+
+            System.out.printf("round %d: Heap %6d ms, SlabHeap %6d ms, speedup %.2fx%n",
+                    round, heapTime / 1_000_000, slabTime / 1_000_000, (double) heapTime / slabTime);
+            if (heapChecksum != slabChecksum) {
+                System.out.println("✗ popped key sequences differ!");
+                System.exit(1);
+            }
+        }
+        System.out.println("\n✓ popped key sequences matched in every round");
+    }
+
+    /**
+     * run the workload on a Heap and return {checksum, elapsed nanoseconds}.
+     * the bookkeeping scans for the two consolidating deleteMins are not timed.
+     */
+    private static long[] runHeap(int n, int seed) {
+        Random rand = new Random(seed);
+        Heap heap = new Heap(true, true);
+        Heap other = new Heap(true, true);
+        Heap.HeapItem[] items = new Heap.HeapItem[n];
+        boolean[] deleted = new boolean[n];
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            // insert half of the items into a second heap to exercise meld
+            items[i] = (i % 2 == 0 ? heap : other).insert(rand.nextInt(1 << 30) + 1, null);
+        }
+        long elapsed = System.nanoTime() - start;
+        deleted[indexOf(items, heap.findMin())] = true;
+        deleted[indexOf(items, other.findMin())] = true;
+        start = System.nanoTime();
+        // consolidate once so decreaseKey has trees to cut from
+        heap.deleteMin();
+        other.deleteMin();
+        heap.meld(other);
+        for (int i = 0; i < n / 4; i++) {
+            int index = rand.nextInt(n);
+            var item = items[index];
+            if (!deleted[index] && item.key > 1) {
+                heap.decreaseKey(item, rand.nextInt(item.key - 1) + 1);
+            }
+        }
+        long checksum = 0;
+        while (heap.size() > 0) {
+            checksum = checksum * 31 + heap.findMin().key;
+            heap.deleteMin();
+        }
+        elapsed += System.nanoTime() - start;
+        return new long[]{checksum, elapsed};
+    }
+
+    /**
+     * run the workload on a SlabHeap and return {checksum, elapsed nanoseconds}.
+     * the bookkeeping scans for the two consolidating deleteMins are not timed.
+     */
+    private static long[] runSlabHeap(int n, int seed) {
+        Random rand = new Random(seed);
+        SlabHeap heap = new SlabHeap(true, true);
+        SlabHeap other = new SlabHeap(true, true);
+        SlabHeap.HeapItem[] items = new SlabHeap.HeapItem[n];
+        boolean[] deleted = new boolean[n];
+        long start = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            // insert half of the items into a second heap to exercise meld
+            items[i] = (i % 2 == 0 ? heap : other).insert(rand.nextInt(1 << 30) + 1, null);
+        }
+        long elapsed = System.nanoTime() - start;
+        deleted[indexOf(items, heap.findMin())] = true;
+        deleted[indexOf(items, other.findMin())] = true;
+        start = System.nanoTime();
+        // consolidate once so decreaseKey has trees to cut from
+        heap.deleteMin();
+        other.deleteMin();
+        heap.meld(other);
+        for (int i = 0; i < n / 4; i++) {
+            int index = rand.nextInt(n);
+            var item = items[index];
+            if (!deleted[index] && item.key > 1) {
+                heap.decreaseKey(item, rand.nextInt(item.key - 1) + 1);
+            }
+        }
+        long checksum = 0;
+        while (heap.size() > 0) {
+            checksum = checksum * 31 + heap.findMin().key;
+            heap.deleteMin();
+        }
+        elapsed += System.nanoTime() - start;
+        return new long[]{checksum, elapsed};
+    }
+
+    private static int indexOf(SlabHeap.HeapItem[] items, SlabHeap.HeapItem item) {
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int indexOf(Heap.HeapItem[] items, Heap.HeapItem item) {
+        for (int i = 0; i < items.length; i++) {
+            if (items[i] == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,210 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class SlabHeapTester {
+    public static void main(String[] args) {
+        System.out.println("=== SlabHeap Test ===\n");
+
+        boolean allPassed = true;
+
+        // Test all 4 configurations
+        allPassed &= testConfiguration(false, false, "Binomial Heap (non-lazy melds, non-lazy decreaseKey)");
+        allPassed &= testConfiguration(true, false, "Lazy Binomial Heap (lazy melds, non-lazy decreaseKey)");
+        allPassed &= testConfiguration(true, true, "Fibonacci Heap (lazy melds, lazy decreaseKey)");
+        allPassed &= testConfiguration(false, true, "Binomial with Cuts (non-lazy melds, lazy decreaseKey)");
+
+        System.out.println("\n=== Final Result ===");
+        if (allPassed) {
+            System.out.println("✓ ALL CONFIGURATIONS PASSED!");
+        } else {
+            System.out.println("✗ SOME CONFIGURATIONS FAILED!");
+        }
+    }
+
+    private static boolean testConfiguration(boolean lazyMelds, boolean lazyDecreaseKeys, String configName) {
+        System.out.println("Testing: " + configName);
+        System.out.println("  lazyMelds=" + lazyMelds + ", lazyDecreaseKeys=" + lazyDecreaseKeys);
+
+        try {
+            Random rand = new Random(42); // Fixed seed for reproducibility
+            SlabHeap heap = new SlabHeap(lazyMelds, lazyDecreaseKeys, 1); // tiny slab so growing is exercised
+            List<SlabHeap.HeapItem> live = new ArrayList<>();
+
+            // Phase 1: Insert 1000 random values
+            System.out.print("  Phase 1: Inserting 1000 random values... ");
+            for (int i = 0; i < 1000; i++) {
+                live.add(heap.insert(rand.nextInt(10000) + 2, "Item" + i));
+            }
+            if (!check(heap, live)) {
+                return false;
+            }
+            System.out.println("✓");
+
+            // Phase 2: Random deleteMin/decreaseKey/delete/insert operations
+            System.out.print("  Phase 2: Random deleteMin/decreaseKey/delete/insert (3000 ops)... ");
+            for (int i = 0; i < 3000; i++) {
+                int op = rand.nextInt(4);
+                if (op == 0 && !live.isEmpty()) {
+                    live.remove(heap.findMin());
+                    heap.deleteMin();
+                } else if (op == 1 && !live.isEmpty()) {
+                    // decreasing deep nodes exercises cascading cuts and heapifying up to a root parent
+                    var item = live.get(rand.nextInt(live.size()));
+                    if (item.key > 1) {
+                        heap.decreaseKey(item, rand.nextInt(item.key - 1) + 1);
+                    }
+                } else if (op == 2 && !live.isEmpty()) {
+                    heap.delete(live.remove(rand.nextInt(live.size())));
+                } else {
+                    live.add(heap.insert(rand.nextInt(10000) + 2, "Inserted"));
+                }
+                if (!check(heap, live)) {
+                    return false;
+                }
+            }
+            System.out.println("✓");
+
+            // Phase 3: Meld into a smaller and into a larger receiving heap
+            System.out.print("  Phase 3: Melding heaps of different sizes... ");
+            SlabHeap small = new SlabHeap(lazyMelds, lazyDecreaseKeys);
+            List<SlabHeap.HeapItem> smallLive = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                smallLive.add(small.insert(rand.nextInt(10000) + 2, "Small"));
+            }
+            smallLive.remove(small.findMin());
+            small.deleteMin(); // give the small heap some trees
+            heap.meld(small); // the receiving heap is the larger one
+            live.addAll(smallLive);
+            if (small.size() != 0 || small.findMin() != null || !check(heap, live)) {
+                System.out.println("✗");
+                System.out.println("    ERROR: meld into the larger heap failed");
+                return false;
+            }
+
+            SlabHeap receiver = new SlabHeap(lazyMelds, lazyDecreaseKeys);
+            List<SlabHeap.HeapItem> receiverLive = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                receiverLive.add(receiver.insert(rand.nextInt(10000) + 2, "Receiver"));
+            }
+            receiver.meld(heap); // the receiving heap is the smaller one, so the slabs are swapped
+            receiverLive.addAll(live);
+            if (heap.size() != 0 || heap.findMin() != null || !check(receiver, receiverLive)) {
+                System.out.println("✗");
+                System.out.println("    ERROR: meld into the smaller heap failed");
+                return false;
+            }
+            heap = receiver;
+            live = receiverLive;
+
+            // items that moved between slabs must still be usable
+            for (int i = 0; i < 200; i++) {
+                var item = live.get(rand.nextInt(live.size()));
+                if (item.key > 1) {
+                    heap.decreaseKey(item, rand.nextInt(item.key - 1) + 1);
+                }
+                if (!check(heap, live)) {
+                    return false;
+                }
+            }
+            System.out.println("✓");
+
+            // Phase 4: Extract all elements and verify sorted order
+            System.out.print("  Phase 4: Extracting all elements (" + heap.size() + " items)... ");
+            List<Integer> expected = new ArrayList<>();
+            for (var item : live) {
+                expected.add(item.key);
+            }
+            Collections.sort(expected);
+            for (int value : expected) {
+                SlabHeap.HeapItem min = heap.findMin();
+                if (min == null || min.key != value) {
+                    System.out.println("✗");
+                    System.out.println("    ERROR: Expected min " + value + ", got " + (min == null ? "null" : min.key));
+                    return false;
+                }
+                heap.deleteMin();
+            }
+            System.out.println("✓");
+
+            // Verify heap is empty
+            if (heap.size() != 0 || heap.findMin() != null || heap.numTrees() != 0) {
+                System.out.println("  ✗ ERROR: Heap not empty after extracting all elements");
+                return false;
+            }
+
+            System.out.println("  ✓ Configuration PASSED\n");
+            return true;
+
+        } catch (Exception e) {
+            System.out.println("✗");
+            System.out.println("  ✗ Configuration FAILED with exception:");
+            System.out.println("    " + e.getClass().getName() + ": " + e.getMessage());
+            e.printStackTrace(System.out);
+            System.out.println();
+            return false;
+        }
+    }
+
+    /**
+     * verify size, the min pointer, the item back pointers, heap order on every node of `heap`,
+     * and that numTrees and numMarkedNodes match the roots and marked nodes actually in the heap.
+     */
+    private static boolean check(SlabHeap heap, List<SlabHeap.HeapItem> live) {
+        if (heap.size() != live.size()) {
+            System.out.println("✗");
+            System.out.println("    ERROR: Expected size " + live.size() + ", got " + heap.size());
+            return false;
+        }
+        int roots = 0;
+        int marked = 0;
+        for (var item : live) {
+            if (heap.parent[item.node] == SlabHeap.NIL) {
+                roots++;
+            }
+            if (heap.marked[item.node]) {
+                marked++;
+            }
+        }
+        if (heap.numTrees() != roots || heap.numMarkedNodes() != marked) {
+            System.out.println("✗");
+            System.out.println("    ERROR: Expected " + roots + " trees and " + marked + " marked nodes, got "
+                    + heap.numTrees() + " and " + heap.numMarkedNodes());
+            return false;
+        }
+        if (live.isEmpty()) {
+            return heap.findMin() == null;
+        }
+        if (heap.findMin() == null || heap.findMin().key != findMinOf(live).key) {
+            System.out.println("✗");
+            System.out.println("    ERROR: findMin does not return the minimal key " + findMinOf(live).key);
+            return false;
+        }
+        for (var item : live) {
+            int node = item.node;
+            if (heap.item[node] != item || heap.key[node] != item.key) {
+                System.out.println("✗");
+                System.out.println("    ERROR: Item with key " + item.key + " is not stored at its node");
+                return false;
+            }
+            int parent = heap.parent[node];
+            if (parent != SlabHeap.NIL && heap.key[parent] > heap.key[node]) {
+                System.out.println("✗");
+                System.out.println("    ERROR: Heap order violated between keys " + heap.key[parent] + " and " + heap.key[node]);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static SlabHeap.HeapItem findMinOf(List<SlabHeap.HeapItem> items) {
+        SlabHeap.HeapItem min = null;
+        for (var item : items) {
+            if (min == null || item.key < min.key) {
+                min = item;
+            }
+        }
+        return min;
+    }
+}